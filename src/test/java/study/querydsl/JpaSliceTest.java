@@ -0,0 +1,19 @@
+package study.querydsl;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * JPA 슬라이스 테스트용 공통 애노테이션
+ * 설정이 모두 같아야 테스트 클래스끼리 캐시된 컨텍스트 하나를 공유함
+ * (@DataJpaTest 가 데이터소스를 자체 임베디드 DB 로 교체 + 테스트마다 롤백, 프로파일 설정은 쓰지 않음)
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@DataJpaTest(showSql = false)    // SQL 로그는 application.yml 의 org.hibernate.SQL 로 이미 출력됨
+public @interface JpaSliceTest {
+}
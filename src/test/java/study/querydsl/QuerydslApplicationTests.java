@@ -2,8 +2,11 @@ package study.querydsl;
 
 import org.junit.jupiter.api.Test;
 import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
 
-@SpringBootTest
+// fast 프로파일의 메모리 DB 만 쓰고 지연 초기화는 끔 (모든 빈이 실제로 생성되는지 확인)
+@SpringBootTest(properties = "spring.main.lazy-initialization=false")
+@ActiveProfiles("fast")
 class QuerydslApplicationTests {
 
 	@Test
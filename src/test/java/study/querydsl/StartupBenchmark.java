@@ -0,0 +1,69 @@
+package study.querydsl;
+
+import com.querydsl.jpa.impl.JPAQueryFactory;
+import org.springframework.boot.SpringApplication;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.persistence.EntityManager;
+import javax.persistence.EntityManagerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static study.querydsl.entity.QMember.member;
+
+/**
+ * 기동 시간 측정 (time-to-first-query)
+ * fast 프로파일로 애플리케이션을 띄우고 첫 Querydsl 쿼리가 끝날 때까지 걸린 시간을 출력
+ * JVM 하나당 한 번만 의미가 있으니 gradle startupBenchmark 태스크로 실행
+ * 인자로 파일 경로를 주면 결과를 csv 로 누적 기록함
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws IOException {
+        long mainStart = System.currentTimeMillis();
+
+        long firstQueryEnd;
+        try (ConfigurableApplicationContext context = SpringApplication.run(QuerydslApplication.class,
+                "--spring.profiles.active=fast", "--server.port=0")) {
+            EntityManagerFactory emf = context.getBean(EntityManagerFactory.class);  // 지연 초기화라 여기서 생성됨
+            EntityManager em = emf.createEntityManager();
+            try {
+                new JPAQueryFactory(em)
+                        .selectFrom(member)
+                        .fetch();
+                firstQueryEnd = System.currentTimeMillis();
+            } finally {
+                em.close();
+            }
+        }
+
+        long jvmStart = ManagementFactory.getRuntimeMXBean().getStartTime();
+        long fromJvm = firstQueryEnd - jvmStart;
+        long fromMain = firstQueryEnd - mainStart;
+        // -Xshare:on 이면 아카이브를 못 쓸 때 JVM 이 기동 실패하므로 여기까지 왔으면 실제로 매핑된 것
+        List<String> jvmArgs = ManagementFactory.getRuntimeMXBean().getInputArguments();
+        boolean cds = jvmArgs.contains("-Xshare:on")
+                && jvmArgs.stream().anyMatch(arg -> arg.startsWith("-XX:SharedArchiveFile"));
+        System.out.println("time-to-first-query (jvm)  = " + fromJvm + "ms");
+        System.out.println("time-to-first-query (main) = " + fromMain + "ms");
+        System.out.println("appcds = " + cds);
+
+        if (args.length > 0) {
+            Path report = Paths.get(args[0]);
+            boolean newFile = Files.notExists(report);
+            if (report.getParent() != null) {
+                Files.createDirectories(report.getParent());
+            }
+            String line = (newFile ? "timestamp,appcds,jvm_ms,main_ms\n" : "")
+                    + LocalDateTime.now() + "," + cds + "," + fromJvm + "," + fromMain + "\n";
+            Files.writeString(report, line, StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+}